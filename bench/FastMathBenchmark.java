@@ -0,0 +1,144 @@
+package physics.math.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import physics.math.vector.FastMath;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Exact vs. FastMath paths, per element, over n interleaved vectors. Needs
+// jmh-core and jmh-generator-annprocess on the classpath, e.g.
+//
+//   javac -cp jmh-core.jar:jmh-generator-annprocess.jar:jopt-simple.jar:commons-math3.jar \
+//         -d out vector/*.java metrics/*.java bench/FastMathBenchmark.java
+//   java -cp out:jmh-core.jar:jopt-simple.jar:commons-math3.jar org.openjdk.jmh.Main FastMathBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastMathBenchmark {
+
+    @Param({"1024"})
+    public int n;
+
+    private double[] xy;
+    private float[] xyF;
+    private double[] work;
+    private float[] workF;
+    private double[] angles;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        xy = new double[2 * n];
+        xyF = new float[2 * n];
+        angles = new double[n];
+        for (int i = 0; i < 2 * n; i++) {
+            xy[i] = rnd.nextDouble(-100.0, 100.0);
+            xyF[i] = (float) xy[i];
+        }
+        for (int i = 0; i < n; i++) angles[i] = rnd.nextDouble(-Math.PI, Math.PI);
+        work = new double[2 * n];
+        workF = new float[2 * n];
+    }
+
+    @Benchmark
+    public void invSqrtDoubleExact(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume(1.0 / Math.sqrt(xy[i] * xy[i] + xy[i + 1] * xy[i + 1]));
+    }
+
+    @Benchmark
+    public void invSqrtDoubleFast(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume(FastMath.invSqrt(xy[i] * xy[i] + xy[i + 1] * xy[i + 1]));
+    }
+
+    @Benchmark
+    public void invSqrtFloatExact(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume((float) (1.0 / Math.sqrt(xyF[i] * xyF[i] + xyF[i + 1] * xyF[i + 1])));
+    }
+
+    @Benchmark
+    public void invSqrtFloatFast(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume(FastMath.invSqrt(xyF[i] * xyF[i] + xyF[i + 1] * xyF[i + 1]));
+    }
+
+    @Benchmark
+    public double[] normalizeAllDoubleExact() {
+        System.arraycopy(xy, 0, work, 0, work.length);
+        for (int i = 0; i < work.length; i += 2) {
+            double len = Math.sqrt(work[i] * work[i] + work[i + 1] * work[i + 1]);
+            if (len == 0.0) continue;
+            work[i] /= len;
+            work[i + 1] /= len;
+        }
+        return work;
+    }
+
+    @Benchmark
+    public double[] normalizeAllDoubleFast() {
+        System.arraycopy(xy, 0, work, 0, work.length);
+        FastMath.normalizeAll(work, 0, n);
+        return work;
+    }
+
+    @Benchmark
+    public float[] normalizeAllFloatExact() {
+        System.arraycopy(xyF, 0, workF, 0, workF.length);
+        for (int i = 0; i < workF.length; i += 2) {
+            float len = (float) Math.sqrt(workF[i] * workF[i] + workF[i + 1] * workF[i + 1]);
+            if (len == 0f) continue;
+            workF[i] /= len;
+            workF[i + 1] /= len;
+        }
+        return workF;
+    }
+
+    @Benchmark
+    public float[] normalizeAllFloatFast() {
+        System.arraycopy(xyF, 0, workF, 0, workF.length);
+        FastMath.normalizeAll(workF, 0, n);
+        return workF;
+    }
+
+    @Benchmark
+    public double[] rotateAllExact() {
+        System.arraycopy(xy, 0, work, 0, work.length);
+        for (int i = 0; i < n; i++) {
+            double s = Math.sin(angles[i]), c = Math.cos(angles[i]);
+            double x = work[2 * i], y = work[2 * i + 1];
+            work[2 * i] = x * c - y * s;
+            work[2 * i + 1] = x * s + y * c;
+        }
+        return work;
+    }
+
+    @Benchmark
+    public double[] rotateAllFast() {
+        System.arraycopy(xy, 0, work, 0, work.length);
+        FastMath.rotateAll(work, angles, 0, n);
+        return work;
+    }
+
+    @Benchmark
+    public void atan2Exact(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume(Math.atan2(xy[i + 1], xy[i]));
+    }
+
+    @Benchmark
+    public void atan2Fast(Blackhole bh) {
+        for (int i = 0; i < 2 * n; i += 2) bh.consume(FastMath.atan2(xy[i + 1], xy[i]));
+    }
+}
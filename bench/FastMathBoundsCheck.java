@@ -0,0 +1,164 @@
+package physics.math.bench;
+
+import physics.math.vector.FastMath;
+import physics.math.vector.Vector2D;
+
+import java.util.SplittableRandom;
+
+// Self-checking harness for the error bounds published on FastMath. Exits with
+// status 1 and prints the worst offender when any bound is exceeded.
+//
+//   javac -d out vector/*.java metrics/*.java bench/FastMathBoundsCheck.java
+//   java -Dphi.fastmath=true -cp out physics.math.bench.FastMathBoundsCheck
+//
+// Vector2D only takes its fast paths with phi.fastmath set, so run it that way.
+public final class FastMathBoundsCheck {
+
+    private static final int SAMPLES = 2_000_000;
+
+    private static int failures;
+
+    private FastMathBoundsCheck() {}
+
+    public static void main(String[] args) {
+        SplittableRandom rnd = new SplittableRandom(0x5EED);
+        checkInvSqrtFloat(rnd);
+        checkInvSqrtDouble(rnd);
+        checkSinCos(rnd);
+        checkAtan2(rnd);
+        checkNormalizeFloat(rnd);
+        checkClampDouble(rnd);
+        if (failures > 0) {
+            System.out.println(failures + " bound(s) exceeded");
+            System.exit(1);
+        }
+        System.out.println("all FastMath bounds hold");
+    }
+
+    private static void checkInvSqrtFloat(SplittableRandom rnd) {
+        Worst w = new Worst();
+        for (int e = -126; e <= 127; e++) w.rel(Math.scalb(1f, e));
+        w.rel(Float.MIN_NORMAL);
+        w.rel(Float.MAX_VALUE);
+        for (int i = 0; i < SAMPLES; i++) {
+            // Log-uniform over the positive normal floats.
+            w.rel(Float.intBitsToFloat(rnd.nextInt(Float.floatToRawIntBits(Float.MIN_NORMAL),
+                                                   Float.floatToRawIntBits(Float.MAX_VALUE))));
+        }
+        report("invSqrt(float) relative", w, FastMath.INV_SQRT_F_REL_ERROR);
+    }
+
+    private static void checkInvSqrtDouble(SplittableRandom rnd) {
+        Worst w = new Worst();
+        for (int e = -1022; e <= 1023; e++) w.relD(Math.scalb(1.0, e));
+        w.relD(Double.MIN_NORMAL);
+        w.relD(Double.MAX_VALUE);
+        for (int i = 0; i < SAMPLES; i++) {
+            w.relD(Double.longBitsToDouble(rnd.nextLong(Double.doubleToRawLongBits(Double.MIN_NORMAL),
+                                                       Double.doubleToRawLongBits(Double.MAX_VALUE))));
+        }
+        report("invSqrt(double) relative", w, FastMath.INV_SQRT_D_REL_ERROR);
+    }
+
+    private static void checkSinCos(SplittableRandom rnd) {
+        Worst w = new Worst();
+        double step = 2.0 * Math.PI / 4096;
+        // Table nodes and midpoints, where interpolation error peaks.
+        for (int i = -8192; i <= 8192; i++) {
+            w.sinCos(i * step);
+            w.sinCos((i + 0.5) * step);
+        }
+        for (int i = 0; i < SAMPLES; i++) w.sinCos(rnd.nextDouble(-100.0 * Math.PI, 100.0 * Math.PI));
+        report("sin/cos absolute", w, FastMath.SIN_COS_ABS_ERROR);
+    }
+
+    private static void checkAtan2(SplittableRandom rnd) {
+        Worst w = new Worst();
+        double[] axis = {-2.0, -1.0, -0.0, 0.0, 1.0, 2.0};
+        for (double y : axis) for (double x : axis) w.atan2(y, x);
+        for (int i = 0; i <= 4096; i++) {
+            double a = Math.PI * (i / 2048.0 - 1.0);
+            w.atan2(Math.sin(a), Math.cos(a));
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            double s = Math.exp(rnd.nextDouble(-20.0, 20.0));
+            w.atan2(rnd.nextDouble(-1.0, 1.0) * s, rnd.nextDouble(-1.0, 1.0) * s);
+        }
+        report("atan2 absolute", w, FastMath.ATAN2_ABS_ERROR);
+    }
+
+    // The fast bulk normalize must track Vector2F's exact path, including vectors
+    // whose squared length is subnormal.
+    private static void checkNormalizeFloat(SplittableRandom rnd) {
+        Worst w = new Worst();
+        float[] xy = new float[2];
+        for (int i = 0; i < SAMPLES; i++) {
+            float s = (float) Math.exp(rnd.nextDouble(-50.0, 40.0));
+            xy[0] = (float) rnd.nextDouble(-1.0, 1.0) * s;
+            xy[1] = (float) rnd.nextDouble(-1.0, 1.0) * s;
+            // Both paths leave vectors alone once x * x + y * y underflows to zero.
+            if (xy[0] * xy[0] + xy[1] * xy[1] == 0f) continue;
+            float len = (float) Math.sqrt(xy[0] * xy[0] + xy[1] * xy[1]);
+            double exact = Math.hypot(xy[0] / len, xy[1] / len);
+            double in = Math.hypot(xy[0], xy[1]);
+            FastMath.normalizeAll(xy, 0, 1);
+            w.value(Math.abs(Math.hypot(xy[0], xy[1]) - exact) / exact, in);
+        }
+        report("normalizeAll(float[]) length", w, 2 * FastMath.INV_SQRT_F_REL_ERROR);
+    }
+
+    private static void checkClampDouble(SplittableRandom rnd) {
+        Worst w = new Worst();
+        for (int i = 0; i < SAMPLES; i++) {
+            // Spans subnormal, normal and overflowing lengthSquared.
+            double s = Math.exp(rnd.nextDouble(-400.0, 400.0));
+            double x = rnd.nextDouble(-1.0, 1.0) * s;
+            double y = rnd.nextDouble(-1.0, 1.0) * s;
+            double ls = x * x + y * y;
+            if (ls == 0.0) continue;
+            double max = 0.5 * Math.min(Math.abs(x), Math.abs(y));
+            if (ls <= max * max) continue;
+            double inv = 1.0 / Math.sqrt(ls);
+            double ex = x * inv * max, ey = y * inv * max;
+            Vector2D c = new Vector2D(x, y).clampedLength(max);
+            double exact = Math.hypot(ex, ey);
+            double err = exact == 0.0 ? Math.hypot(c.getX(), c.getY()) : Math.abs(Math.hypot(c.getX(), c.getY()) - exact) / exact;
+            w.value(Double.isNaN(err) ? Double.POSITIVE_INFINITY : err, Math.hypot(x, y));
+        }
+        report("clampedLength(double) length", w, 2 * FastMath.INV_SQRT_D_REL_ERROR);
+    }
+
+    private static void report(String name, Worst w, double bound) {
+        boolean ok = w.err <= bound;
+        System.out.printf("%-28s max %.3e at %s (bound %.1e) %s%n", name, w.err, w.at, bound, ok ? "ok" : "FAIL");
+        if (!ok) failures++;
+    }
+
+    private static final class Worst {
+        double err;
+        double at;
+
+        void value(double e, double x) {
+            if (!(e <= err)) { err = e; at = x; }
+        }
+
+        void rel(float x) {
+            double exact = 1.0 / Math.sqrt(x);
+            value(Math.abs(FastMath.invSqrt(x) - exact) / exact, x);
+        }
+
+        void relD(double x) {
+            double exact = 1.0 / Math.sqrt(x);
+            value(Math.abs(FastMath.invSqrt(x) - exact) / exact, x);
+        }
+
+        void sinCos(double a) {
+            value(Math.abs(FastMath.sin(a) - Math.sin(a)), a);
+            value(Math.abs(FastMath.cos(a) - Math.cos(a)), a);
+        }
+
+        void atan2(double y, double x) {
+            value(Math.abs(FastMath.atan2(y, x) - Math.atan2(y, x)), Math.atan2(y, x));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package physics.math.geometry;
+
+import physics.math.vector.VectorMath;
+
+// Kernels over interleaved xy buffers: point i lives at xy[2 * i], xy[2 * i + 1].
+// Nothing here allocates; callers own every output and scratch array.
+public final class Geometry {
+
+    // Tolerances scale with the shape so tiny and huge inputs behave alike.
+    private static final double REL_TOLERANCE = 1e-12;
+
+    private Geometry() {}
+
+    // Sorts the first n points of xy in place, then writes the hull to out in
+    // counter-clockwise order from the lowest (x, y) point. out needs room for
+    // n + 1 points, as the chain briefly repeats its start. Returns the vertex
+    // count; coincident points collapse to a single vertex.
+    public static int convexHull(double[] xy, int n, double[] out) {
+        checkPoints(xy, n);
+        if (out == null || out.length < 2 * (n + 1)) throw new IllegalArgumentException("out too small");
+        if (n < 2) {
+            System.arraycopy(xy, 0, out, 0, 2 * n);
+            return n;
+        }
+        sortPoints(xy, 0, n - 1);
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            k = pushHull(xy, i, out, k, 2);
+        }
+        for (int i = n - 2, lower = k + 1; i >= 0; i--) {
+            k = pushHull(xy, i, out, k, lower);
+        }
+        if (k == 3 && out[0] == out[2] && out[1] == out[3]) return 1;
+        return k - 1;
+    }
+
+    public static double signedArea(double[] xy, int n) {
+        checkPoints(xy, n);
+        double a = 0.0;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            a += VectorMath.cross(xy[2 * j], xy[2 * j + 1], xy[2 * i], xy[2 * i + 1]);
+        }
+        return 0.5 * a;
+    }
+
+    public static double area(double[] xy, int n) {
+        return Math.abs(signedArea(xy, n));
+    }
+
+    // Writes the area centroid to out[0], out[1] and returns the unsigned area.
+    public static double centroid(double[] xy, int n, double[] out) {
+        return massProperties(xy, n, 1.0, out);
+    }
+
+    // Writes { cx, cy, inertia about the centroid } to out and returns the mass.
+    // Works for either winding; the first vertex is used as the reference point
+    // so distant polygons keep their precision.
+    public static double massProperties(double[] xy, int n, double density, double[] out) {
+        checkPoints(xy, n);
+        if (out == null || out.length < 2) throw new IllegalArgumentException("out too small");
+        if (n < 3) {
+            out[0] = n == 0 ? 0.0 : xy[0];
+            out[1] = n == 0 ? 0.0 : xy[1];
+            if (out.length > 2) out[2] = 0.0;
+            return 0.0;
+        }
+        double rx = xy[0], ry = xy[1];
+        double area = 0.0, cx = 0.0, cy = 0.0, inertia = 0.0;
+        for (int i = 1; i < n - 1; i++) {
+            double e1x = xy[2 * i] - rx, e1y = xy[2 * i + 1] - ry;
+            double e2x = xy[2 * i + 2] - rx, e2y = xy[2 * i + 3] - ry;
+            double d = VectorMath.cross(e1x, e1y, e2x, e2y);
+            double tri = 0.5 * d;
+            area += tri;
+            cx += tri * (e1x + e2x) / 3.0;
+            cy += tri * (e1y + e2y) / 3.0;
+            double ix = e1x * e1x + e2x * e1x + e2x * e2x;
+            double iy = e1y * e1y + e2y * e1y + e2y * e2y;
+            inertia += (0.25 / 3.0) * d * (ix + iy);
+        }
+        if (area == 0.0) {
+            out[0] = rx;
+            out[1] = ry;
+            if (out.length > 2) out[2] = 0.0;
+            return 0.0;
+        }
+        cx /= area;
+        cy /= area;
+        if (area < 0.0) {
+            area = -area;
+            inertia = -inertia;
+        }
+        double mass = density * area;
+        out[0] = cx + rx;
+        out[1] = cy + ry;
+        if (out.length > 2) out[2] = density * inertia - mass * VectorMath.dot(cx, cy, cx, cy);
+        return mass;
+    }
+
+    // Ramer-Douglas-Peucker over an open polyline. stack needs n ints.
+    // out may be the same array as xy. Returns the number of points kept.
+    public static int simplify(double[] xy, int n, double epsilon, double[] out, int[] stack) {
+        checkPoints(xy, n);
+        if (out == null || out.length < 2 * n) throw new IllegalArgumentException("out too small");
+        if (stack == null || stack.length < n) throw new IllegalArgumentException("stack too small");
+        if (n < 3) {
+            if (out != xy) System.arraycopy(xy, 0, out, 0, 2 * n);
+            return n;
+        }
+        double eps2 = epsilon * epsilon;
+        int k = 0;
+        out[0] = xy[0];
+        out[1] = xy[1];
+        k++;
+        int start = 0;
+        int top = 0;
+        stack[top++] = n - 1;
+        while (top > 0) {
+            int end = stack[top - 1];
+            double ax = xy[2 * start], ay = xy[2 * start + 1];
+            double dx = xy[2 * end] - ax, dy = xy[2 * end + 1] - ay;
+            double len2 = VectorMath.lengthSquared(dx, dy);
+            int farthest = -1;
+            double best = 0.0;
+            for (int i = start + 1; i < end; i++) {
+                double px = xy[2 * i] - ax, py = xy[2 * i + 1] - ay;
+                double c = VectorMath.cross(dx, dy, px, py);
+                double d2 = len2 == 0.0 ? VectorMath.lengthSquared(px, py) : c * c / len2;
+                if (d2 > best) {
+                    best = d2;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && best > eps2) {
+                stack[top++] = farthest;
+            } else {
+                top--;
+                out[2 * k] = xy[2 * end];
+                out[2 * k + 1] = xy[2 * end + 1];
+                k++;
+                start = end;
+            }
+        }
+        return k;
+    }
+
+    // Welzl-style incremental minimal enclosing circle, written to out as { cx, cy, r }.
+    // The first n points of xy are shuffled in place for expected linear time.
+    public static void boundingCircle(double[] xy, int n, double[] out) {
+        checkPoints(xy, n);
+        if (out == null || out.length < 3) throw new IllegalArgumentException("out too small");
+        if (n == 0) {
+            out[0] = 0.0; out[1] = 0.0; out[2] = 0.0;
+            return;
+        }
+        long seed = 0x9E3779B97F4A7C15L ^ n;
+        for (int i = n - 1; i > 0; i--) {
+            seed ^= seed << 13; seed ^= seed >>> 7; seed ^= seed << 17;
+            swapPoints(xy, i, (int) Long.remainderUnsigned(seed, i + 1));
+        }
+        double cx = xy[0], cy = xy[1], r2 = 0.0;
+        for (int i = 1; i < n; i++) {
+            double ix = xy[2 * i], iy = xy[2 * i + 1];
+            if (inside(VectorMath.distanceSquared(cx, cy, ix, iy), r2)) continue;
+            cx = ix; cy = iy; r2 = 0.0;
+            for (int j = 0; j < i; j++) {
+                double jx = xy[2 * j], jy = xy[2 * j + 1];
+                if (inside(VectorMath.distanceSquared(cx, cy, jx, jy), r2)) continue;
+                cx = 0.5 * (ix + jx); cy = 0.5 * (iy + jy);
+                r2 = VectorMath.distanceSquared(cx, cy, ix, iy);
+                for (int m = 0; m < j; m++) {
+                    double mx = xy[2 * m], my = xy[2 * m + 1];
+                    if (inside(VectorMath.distanceSquared(cx, cy, mx, my), r2)) continue;
+                    double bx = jx - ix, by = jy - iy;
+                    double qx = mx - ix, qy = my - iy;
+                    double b2 = VectorMath.lengthSquared(bx, by);
+                    double q2 = VectorMath.lengthSquared(qx, qy);
+                    double d = 2.0 * VectorMath.cross(bx, by, qx, qy);
+                    if (Math.abs(d) <= REL_TOLERANCE * (b2 + q2)) {
+                        // Collinear: the circle spans whichever pair is farthest apart.
+                        double dij = VectorMath.distanceSquared(ix, iy, jx, jy);
+                        double dim = VectorMath.distanceSquared(ix, iy, mx, my);
+                        double djm = VectorMath.distanceSquared(jx, jy, mx, my);
+                        if (dij >= dim && dij >= djm) { cx = 0.5 * (ix + jx); cy = 0.5 * (iy + jy); }
+                        else if (dim >= djm) { cx = 0.5 * (ix + mx); cy = 0.5 * (iy + my); }
+                        else { cx = 0.5 * (jx + mx); cy = 0.5 * (jy + my); }
+                    } else {
+                        cx = ix + (qy * b2 - by * q2) / d;
+                        cy = iy + (bx * q2 - qx * b2) / d;
+                    }
+                    r2 = Math.max(VectorMath.distanceSquared(cx, cy, ix, iy),
+                         Math.max(VectorMath.distanceSquared(cx, cy, jx, jy),
+                                  VectorMath.distanceSquared(cx, cy, mx, my)));
+                }
+            }
+        }
+        out[0] = cx;
+        out[1] = cy;
+        out[2] = Math.sqrt(r2);
+    }
+
+    private static int pushHull(double[] xy, int i, double[] out, int k, int floor) {
+        double px = xy[2 * i], py = xy[2 * i + 1];
+        while (k >= floor) {
+            double ox = out[2 * k - 4], oy = out[2 * k - 3];
+            double ax = out[2 * k - 2] - ox, ay = out[2 * k - 1] - oy;
+            if (VectorMath.cross(ax, ay, px - ox, py - oy) > 0.0) break;
+            k--;
+        }
+        out[2 * k] = px;
+        out[2 * k + 1] = py;
+        return k + 1;
+    }
+
+    private static void sortPoints(double[] xy, int lo, int hi) {
+        while (hi - lo > 16) {
+            int mid = (lo + hi) >>> 1;
+            double pivX = xy[2 * mid], pivY = xy[2 * mid + 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (less(xy[2 * i], xy[2 * i + 1], pivX, pivY)) i++;
+                while (less(pivX, pivY, xy[2 * j], xy[2 * j + 1])) j--;
+                if (i <= j) swapPoints(xy, i++, j--);
+            }
+            // Recurse into the smaller half so the stack stays O(log n).
+            if (j - lo < hi - i) {
+                sortPoints(xy, lo, j);
+                lo = i;
+            } else {
+                sortPoints(xy, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            double x = xy[2 * i], y = xy[2 * i + 1];
+            int j = i - 1;
+            while (j >= lo && less(x, y, xy[2 * j], xy[2 * j + 1])) {
+                xy[2 * j + 2] = xy[2 * j];
+                xy[2 * j + 3] = xy[2 * j + 1];
+                j--;
+            }
+            xy[2 * j + 2] = x;
+            xy[2 * j + 3] = y;
+        }
+    }
+
+    private static boolean inside(double d2, double r2) {
+        return d2 <= r2 * (1.0 + REL_TOLERANCE);
+    }
+
+    private static boolean less(double ax, double ay, double bx, double by) {
+        return ax < bx || (ax == bx && ay < by);
+    }
+
+    private static void swapPoints(double[] xy, int i, int j) {
+        double tx = xy[2 * i], ty = xy[2 * i + 1];
+        xy[2 * i] = xy[2 * j];
+        xy[2 * i + 1] = xy[2 * j + 1];
+        xy[2 * j] = tx;
+        xy[2 * j + 1] = ty;
+    }
+
+    private static void checkPoints(double[] xy, int n) {
+        if (xy == null) throw new IllegalArgumentException("buffer must not be null");
+        if (n < 0 || 2L * n > xy.length) throw new IllegalArgumentException("point count");
+    }
+}
@@ -0,0 +1,18 @@
+package physics.math.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("physics.math.Frame")
+@Label("Phi Frame")
+@Category({"Phi", "Metrics"})
+@StackTrace(false)
+class FrameEvent extends jdk.jfr.Event {
+    @Label("Frame") long frame;
+    @Label("Duration") @Timespan long nanos;
+    @Label("Elements Processed") long elements;
+    @Label("Vector Allocations") long allocations;
+}
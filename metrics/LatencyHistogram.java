@@ -0,0 +1,56 @@
+package physics.math.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Latency histogram with power-of-two nanosecond buckets: bucket b holds
+// samples in [2^(b-1), 2^b), so percentiles are exact to within a factor of two.
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram() {}
+
+    void record(long nanos) {
+        if (nanos < 0L) nanos = 0L;
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() { return count.get(); }
+    public long totalNanos() { return total.get(); }
+    public long maxNanos() { return max.get(); }
+    public double meanNanos() { long c = count.get(); return c == 0L ? 0.0 : (double) total.get() / c; }
+
+    public long bucketCount(int bucket) { return buckets.get(bucket); }
+    public static int bucketCount() { return BUCKETS; }
+    // Exclusive: every sample in the bucket is strictly below this.
+    public static long bucketUpperNanos(int bucket) { return bucket >= 63 ? Long.MAX_VALUE : 1L << bucket; }
+
+    // Upper bound of the bucket containing the given quantile, in nanoseconds.
+    public long percentileNanos(double q) {
+        long c = count.get();
+        if (c == 0L) return 0L;
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, q)) * c);
+        long seen = 0L;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets.get(b);
+            if (seen >= rank && seen > 0L) return Math.min(bucketUpperNanos(b), max.get());
+        }
+        return max.get();
+    }
+
+    void reset() {
+        for (int b = 0; b < BUCKETS; b++) buckets.set(b, 0L);
+        count.set(0L);
+        total.set(0L);
+        max.set(0L);
+    }
+}
@@ -0,0 +1,112 @@
+package physics.math.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Everything here is gated on static final flags, so with -Dphi.metrics unset
+// the JIT removes the call sites and the library runs uninstrumented.
+public final class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("phi.metrics");
+    public static final boolean TRACK_ALLOCATIONS = ENABLED && Boolean.getBoolean("phi.metrics.alloc");
+
+    public enum Op { SUM, AVERAGE, STATS, SCALE_ALL, ADD_SCALED, NORMALIZE_ALL, LERP_ALL, ROTATE_ALL, ANGLES_ALL }
+
+    public enum Alloc { VECTOR_2D, VECTOR_2F, VECTOR_2I, VECTOR_2DR }
+
+    private static final Op[] OPS = Op.values();
+    private static final Alloc[] ALLOCS = Alloc.values();
+
+    private static final LongAdder[] CALLS = adders(OPS.length);
+    private static final LongAdder[] ELEMENTS = adders(OPS.length);
+    private static final LongAdder[] ALLOCATIONS = adders(ALLOCS.length);
+    private static final Map<String, PhaseTimer> PHASES = new ConcurrentHashMap<>();
+
+    private static long frame;
+    private static long frameStart;
+    private static long frameElements;
+    private static long frameAllocations;
+
+    private Metrics() {}
+
+    public static void count(Op op, int elements) {
+        if (!ENABLED) return;
+        CALLS[op.ordinal()].increment();
+        ELEMENTS[op.ordinal()].add(elements);
+    }
+
+    public static void allocated(Alloc kind) {
+        if (!TRACK_ALLOCATIONS) return;
+        ALLOCATIONS[kind.ordinal()].increment();
+    }
+
+    public static PhaseTimer phase(String name) {
+        return PHASES.computeIfAbsent(name, PhaseTimer::new);
+    }
+
+    public static long calls(Op op) { return CALLS[op.ordinal()].sum(); }
+    public static long elements(Op op) { return ELEMENTS[op.ordinal()].sum(); }
+    public static long allocations(Alloc kind) { return ALLOCATIONS[kind.ordinal()].sum(); }
+    public static long frame() { return frame; }
+
+    public static Iterable<PhaseTimer> phases() { return PHASES.values(); }
+
+    public static void beginFrame() {
+        if (!ENABLED) return;
+        frameStart = System.nanoTime();
+        frameElements = totalElements();
+        frameAllocations = totalAllocations();
+    }
+
+    public static void endFrame() {
+        if (!ENABLED) return;
+        long now = System.nanoTime();
+        for (PhaseTimer t : PHASES.values()) {
+            long nanos = t.endFrame();
+            PhaseEvent e = new PhaseEvent();
+            if (e.shouldCommit()) {
+                e.frame = frame;
+                e.phase = t.name();
+                e.nanos = nanos;
+                e.commit();
+            }
+        }
+        FrameEvent e = new FrameEvent();
+        if (e.shouldCommit()) {
+            e.frame = frame;
+            e.nanos = frameStart == 0L ? 0L : now - frameStart;
+            e.elements = totalElements() - frameElements;
+            e.allocations = totalAllocations() - frameAllocations;
+            e.commit();
+        }
+        frame++;
+    }
+
+    public static void reset() {
+        for (LongAdder a : CALLS) a.reset();
+        for (LongAdder a : ELEMENTS) a.reset();
+        for (LongAdder a : ALLOCATIONS) a.reset();
+        for (PhaseTimer t : PHASES.values()) t.reset();
+        frame = 0L;
+        frameStart = 0L;
+    }
+
+    private static long totalElements() {
+        long n = 0L;
+        for (LongAdder a : ELEMENTS) n += a.sum();
+        return n;
+    }
+
+    private static long totalAllocations() {
+        long n = 0L;
+        for (LongAdder a : ALLOCATIONS) n += a.sum();
+        return n;
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] a = new LongAdder[n];
+        for (int i = 0; i < n; i++) a[i] = new LongAdder();
+        return a;
+    }
+}
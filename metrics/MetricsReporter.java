@@ -0,0 +1,105 @@
+package physics.math.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class MetricsReporter {
+
+    private MetricsReporter() {}
+
+    public static String text() {
+        StringBuilder sb = new StringBuilder();
+        writeText(sb);
+        return sb.toString();
+    }
+
+    public static String csv() {
+        StringBuilder sb = new StringBuilder();
+        writeCsv(sb);
+        return sb.toString();
+    }
+
+    public static void writeText(Appendable out) {
+        try {
+            out.append("frames ").append(Long.toString(Metrics.frame())).append('\n');
+            out.append(String.format("%-14s %12s %14s%n", "op", "calls", "elements"));
+            for (Metrics.Op op : Metrics.Op.values()) {
+                out.append(String.format("%-14s %12d %14d%n", op, Metrics.calls(op), Metrics.elements(op)));
+            }
+            if (Metrics.TRACK_ALLOCATIONS) {
+                out.append(String.format("%-14s %12s%n", "allocation", "count"));
+                for (Metrics.Alloc kind : Metrics.Alloc.values()) {
+                    out.append(String.format("%-14s %12d%n", kind, Metrics.allocations(kind)));
+                }
+            }
+            // "call" rows are per stop()/record(); "frame" rows are the phase's total per frame.
+            out.append(String.format("%-14s %-5s %10s %12s %12s %12s %12s %12s%n",
+                    "phase", "per", "count", "mean_ns", "p50_ns", "p90_ns", "p99_ns", "max_ns"));
+            for (PhaseTimer t : Metrics.phases()) {
+                histogramText(out, t.name(), "call", t.calls());
+                histogramText(out, t.name(), "frame", t.frames());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // One row per metric: kind,name,field,value. Phase fields are prefixed "call_"
+    // (per stop()/record()) or "frame_" (phase total per frame). Histograms are
+    // written as one "bucket_lt_<ns>" row per non-empty bucket, keyed by its
+    // exclusive upper bound.
+    public static void writeCsv(Appendable out) {
+        try {
+            out.append("kind,name,field,value\n");
+            row(out, "frame", "all", "count", Metrics.frame());
+            for (Metrics.Op op : Metrics.Op.values()) {
+                row(out, "op", op.name(), "calls", Metrics.calls(op));
+                row(out, "op", op.name(), "elements", Metrics.elements(op));
+            }
+            if (Metrics.TRACK_ALLOCATIONS) {
+                for (Metrics.Alloc kind : Metrics.Alloc.values()) {
+                    row(out, "alloc", kind.name(), "count", Metrics.allocations(kind));
+                }
+            }
+            for (PhaseTimer t : Metrics.phases()) {
+                histogramCsv(out, t.name(), "call_", t.calls());
+                histogramCsv(out, t.name(), "frame_", t.frames());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeTo(Path path, boolean csv) {
+        try (Writer w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            if (csv) writeCsv(w); else writeText(w);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void histogramText(Appendable out, String name, String per, LatencyHistogram h) throws IOException {
+        out.append(String.format("%-14s %-5s %10d %12.0f %12d %12d %12d %12d%n",
+                name, per, h.count(), h.meanNanos(), h.percentileNanos(0.5),
+                h.percentileNanos(0.9), h.percentileNanos(0.99), h.maxNanos()));
+    }
+
+    private static void histogramCsv(Appendable out, String name, String prefix, LatencyHistogram h) throws IOException {
+        row(out, "phase", name, prefix + "count", h.count());
+        row(out, "phase", name, prefix + "total_ns", h.totalNanos());
+        row(out, "phase", name, prefix + "max_ns", h.maxNanos());
+        for (int b = 0; b < LatencyHistogram.bucketCount(); b++) {
+            long c = h.bucketCount(b);
+            if (c != 0L) row(out, "phase", name, prefix + "bucket_lt_" + LatencyHistogram.bucketUpperNanos(b), c);
+        }
+    }
+
+    private static void row(Appendable out, String kind, String name, String field, long value) throws IOException {
+        out.append(kind).append(',').append(name).append(',').append(field).append(',')
+           .append(Long.toString(value)).append('\n');
+    }
+}
@@ -0,0 +1,17 @@
+package physics.math.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("physics.math.Phase")
+@Label("Phi Frame Phase")
+@Category({"Phi", "Metrics"})
+@StackTrace(false)
+class PhaseEvent extends jdk.jfr.Event {
+    @Label("Frame") long frame;
+    @Label("Phase") String phase;
+    @Label("Time In Frame") @Timespan long nanos;
+}
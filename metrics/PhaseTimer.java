@@ -0,0 +1,53 @@
+package physics.math.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Times one named phase. Every stop()/record() lands in calls(); at endFrame the
+// phase's summed time for that frame lands in frames(), if the phase ran at all.
+public final class PhaseTimer {
+
+    private final String name;
+    private final LatencyHistogram calls = new LatencyHistogram();
+    private final LatencyHistogram frames = new LatencyHistogram();
+    private final AtomicLong frameNanos = new AtomicLong();
+    private final AtomicLong frameCalls = new AtomicLong();
+
+    PhaseTimer(String name) { this.name = name; }
+
+    public String name() { return name; }
+
+    public long start() {
+        return Metrics.ENABLED ? System.nanoTime() : 0L;
+    }
+
+    public void stop(long start) {
+        if (!Metrics.ENABLED) return;
+        record(System.nanoTime() - start);
+    }
+
+    public void record(long nanos) {
+        if (!Metrics.ENABLED) return;
+        if (nanos < 0L) nanos = 0L;
+        calls.record(nanos);
+        frameNanos.addAndGet(nanos);
+        frameCalls.incrementAndGet();
+    }
+
+    public LatencyHistogram calls() { return calls; }
+    public LatencyHistogram frames() { return frames; }
+
+    // Returns the phase's time in the frame just ended, 0 if it did not run.
+    long endFrame() {
+        long n = frameCalls.getAndSet(0L);
+        long nanos = frameNanos.getAndSet(0L);
+        if (n != 0L) frames.record(nanos);
+        return nanos;
+    }
+
+    void reset() {
+        calls.reset();
+        frames.reset();
+        frameNanos.set(0L);
+        frameCalls.set(0L);
+    }
+}
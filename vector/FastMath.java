@@ -0,0 +1,112 @@
+package physics.math.vector;
+
+public final class FastMath {
+
+    // Enable with -Dphi.fastmath=true. Being static final, the JIT folds the
+    // checks away and the exact path pays nothing when this is off.
+    public static final boolean ENABLED = Boolean.getBoolean("phi.fastmath");
+
+    // Worst-case relative error of invSqrt over positive normal inputs.
+    public static final float  INV_SQRT_F_REL_ERROR = 5e-6f;
+    public static final double INV_SQRT_D_REL_ERROR = 1e-10;
+
+    // Worst-case absolute error (radians / unit) of the table lookups.
+    public static final double SIN_COS_ABS_ERROR = 3e-7;
+    public static final double ATAN2_ABS_ERROR   = 1e-7;
+
+    private static final int SIN_BITS = 12;
+    private static final int SIN_SIZE = 1 << SIN_BITS;
+    private static final int SIN_MASK = SIN_SIZE - 1;
+    private static final double SIN_SCALE = SIN_SIZE / (2.0 * Math.PI);
+    private static final double[] SIN = new double[SIN_SIZE + 1];
+
+    private static final int ATAN_SIZE = 1 << 10;
+    private static final double[] ATAN = new double[ATAN_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIN_SIZE; i++) SIN[i] = Math.sin(i / SIN_SCALE);
+        for (int i = 0; i <= ATAN_SIZE; i++) ATAN[i] = Math.atan((double) i / ATAN_SIZE);
+    }
+
+    private FastMath() {}
+
+    public static float invSqrt(float x) {
+        float half = 0.5f * x;
+        float y = Float.intBitsToFloat(0x5f375a86 - (Float.floatToRawIntBits(x) >> 1));
+        y *= 1.5f - half * y * y;
+        y *= 1.5f - half * y * y;
+        return y;
+    }
+
+    public static double invSqrt(double x) {
+        double half = 0.5 * x;
+        double y = Double.longBitsToDouble(0x5fe6eb50c7b537a9L - (Double.doubleToRawLongBits(x) >> 1));
+        y *= 1.5 - half * y * y;
+        y *= 1.5 - half * y * y;
+        y *= 1.5 - half * y * y;
+        return y;
+    }
+
+    public static double sin(double a) {
+        return lookupSin(a * SIN_SCALE);
+    }
+
+    public static double cos(double a) {
+        return lookupSin(a * SIN_SCALE + SIN_SIZE / 4);
+    }
+
+    public static double atan2(double y, double x) {
+        double ax = Math.abs(x);
+        double ay = Math.abs(y);
+        if (!(ax < Double.POSITIVE_INFINITY && ay < Double.POSITIVE_INFINITY)) return Math.atan2(y, x);
+        if (ax == 0.0 && ay == 0.0) return Math.atan2(y, x);
+        boolean steep = ay > ax;
+        double t = (steep ? ax / ay : ay / ax) * ATAN_SIZE;
+        int i = (int) t;
+        double r = i >= ATAN_SIZE ? ATAN[ATAN_SIZE] : ATAN[i] + (ATAN[i + 1] - ATAN[i]) * (t - i);
+        if (steep) r = Math.PI * 0.5 - r;
+        if (x < 0.0) r = Math.PI - r;
+        return Math.copySign(r, y);
+    }
+
+    public static void normalizeAll(double[] xy, int from, int count) {
+        if (xy == null) throw new IllegalArgumentException("buffer must not be null");
+        for (int i = 2 * from, end = 2 * (from + count); i < end; i += 2) {
+            double ls = xy[i] * xy[i] + xy[i + 1] * xy[i + 1];
+            if (ls <= Vector2D.EPS * Vector2D.EPS) continue;
+            double inv = ls == Double.POSITIVE_INFINITY ? 1.0 / Math.sqrt(ls) : invSqrt(ls);
+            xy[i] *= inv;
+            xy[i + 1] *= inv;
+        }
+    }
+
+    public static void normalizeAll(float[] xy, int from, int count) {
+        if (xy == null) throw new IllegalArgumentException("buffer must not be null");
+        for (int i = 2 * from, end = 2 * (from + count); i < end; i += 2) {
+            float ls = xy[i] * xy[i] + xy[i + 1] * xy[i + 1];
+            if (ls == 0f) continue;
+            // invSqrt is only accurate for normal inputs; tiny vectors take the exact path.
+            float inv = ls < Float.MIN_NORMAL ? (float) (1.0 / Math.sqrt(ls)) : invSqrt(ls);
+            xy[i] *= inv;
+            xy[i + 1] *= inv;
+        }
+    }
+
+    public static void rotateAll(double[] xy, double[] angles, int from, int count) {
+        if (xy == null || angles == null) throw new IllegalArgumentException("arrays must not be null");
+        for (int i = from, end = from + count; i < end; i++) {
+            double s = sin(angles[i]);
+            double c = cos(angles[i]);
+            double x = xy[2 * i];
+            double y = xy[2 * i + 1];
+            xy[2 * i] = x * c - y * s;
+            xy[2 * i + 1] = x * s + y * c;
+        }
+    }
+
+    private static double lookupSin(double t) {
+        double f = Math.floor(t);
+        int i = (int) ((long) f & SIN_MASK);
+        return SIN[i] + (SIN[i + 1] - SIN[i]) * (t - f);
+    }
+}
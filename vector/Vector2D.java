@@ -1,5 +1,7 @@
 package physics.math.vector;
 
+import physics.math.metrics.Metrics;
+
 import java.util.Objects;
 import java.util.function.DoubleUnaryOperator;
 
@@ -17,7 +19,10 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
     private double y;
 
     public Vector2D() { this(0.0, 0.0); }
-    public Vector2D(double x, double y) { this.x = x; this.y = y; }
+    public Vector2D(double x, double y) {
+        this.x = x; this.y = y;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2D);
+    }
     public static Vector2D of(double x, double y) { return new Vector2D(x, y); }
 
     public double getX() { return x; }
@@ -50,18 +55,31 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
 
     public double invLength() {
         double ls = lengthSquared();
-        return ls <= EPS ? 0.0 : 1.0 / Math.sqrt(ls);
+        return ls <= EPS ? 0.0 : rsqrt(ls);
     }
 
     public double invSqrt() { return invLength(); }
 
     public Vector2D normalized() {
+        if (FastMath.ENABLED) {
+            double ls = lengthSquared();
+            if (ls <= EPS * EPS) return ZERO.clone();
+            double inv = rsqrt(ls);
+            return new Vector2D(x * inv, y * inv);
+        }
         double len = length();
         if (len <= EPS) return ZERO.clone();
         return new Vector2D(x / len, y / len);
     }
 
     public Vector2D normalizeInPlace() {
+        if (FastMath.ENABLED) {
+            double ls = lengthSquared();
+            if (ls <= EPS * EPS) return this;
+            double inv = rsqrt(ls);
+            this.x *= inv; this.y *= inv;
+            return this;
+        }
         double len = length();
         if (len <= EPS) return this;
         this.x /= len; this.y /= len;
@@ -78,6 +96,23 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
     public double cross(Vector2D o) { return this.x * o.y - this.y * o.x; }
     public double project(Vector2D axis) { return dot(axis); }
 
+    public double angle() { return FastMath.ENABLED ? FastMath.atan2(y, x) : Math.atan2(y, x); }
+
+    public Vector2D rotated(double angle) {
+        double s = FastMath.ENABLED ? FastMath.sin(angle) : Math.sin(angle);
+        double c = FastMath.ENABLED ? FastMath.cos(angle) : Math.cos(angle);
+        return new Vector2D(x * c - y * s, x * s + y * c);
+    }
+
+    public Vector2D rotateInPlace(double angle) {
+        double s = FastMath.ENABLED ? FastMath.sin(angle) : Math.sin(angle);
+        double c = FastMath.ENABLED ? FastMath.cos(angle) : Math.cos(angle);
+        double nx = x * c - y * s;
+        this.y = x * s + y * c;
+        this.x = nx;
+        return this;
+    }
+
     public boolean isZero() { return x == 0.0 && y == 0.0; }
     public boolean approxEquals(Vector2D o, double eps) {
         return Math.abs(this.x - o.x) <= eps && Math.abs(this.y - o.y) <= eps;
@@ -165,6 +200,7 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
 
     public static void addScaled(Vector2D[] dst, Vector2D[] src, double scale) {
         if (dst == null || src == null || dst.length != src.length) throw new IllegalArgumentException("arrays");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ADD_SCALED, dst.length);
         for (int i = 0; i < dst.length; i++) {
             dst[i].x += src[i].x * scale;
             dst[i].y += src[i].y * scale;
@@ -173,33 +209,36 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
 
     public static void scaleAll(Vector2D[] arr, double s) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, arr.length);
         for (int i = 0; i < arr.length; i++) arr[i].mulInPlace(s);
     }
 
     public static Vector2D sum(Vector2D[] arr) {
-        if (arr == null || arr.length == 0) return ZERO.clone();
-        double sx = 0.0, sy = 0.0;
-        for (Vector2D v : arr) { sx += v.x; sy += v.y; }
-        return new Vector2D(sx, sy);
+        return VectorMath.sum(arr);
     }
 
     public static Vector2D average(Vector2D[] arr) {
         if (arr == null || arr.length == 0) return ZERO.clone();
-        Vector2D s = sum(arr);
-        return s.divided(arr.length);
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.AVERAGE, arr.length);
+        double sx = 0.0, sy = 0.0;
+        int n = 0;
+        for (Vector2D v : arr) {
+            if (v != null) { sx += v.x; sy += v.y; n++; }
+        }
+        return n == 0 ? ZERO.clone() : new Vector2D(sx / n, sy / n);
     }
 
     public Vector2D clampedLength(double max) {
         double ls = lengthSquared();
         if (ls <= max * max) return clone();
-        double inv = 1.0 / Math.sqrt(ls);
+        double inv = rsqrt(ls);
         return new Vector2D(x * inv * max, y * inv * max);
     }
 
     public Vector2D clampLengthInPlace(double max) {
         double ls = lengthSquared();
         if (ls <= max * max) return this;
-        double inv = 1.0 / Math.sqrt(ls);
+        double inv = rsqrt(ls);
         this.x *= inv * max;
         this.y *= inv * max;
         return this;
@@ -228,4 +267,10 @@ public class Vector2D implements Cloneable, Comparable<Vector2D> {
     }
 
     private Vector2D mulInPlace(double s) { this.x *= s; this.y *= s; return this; }
+
+    // invSqrt is only accurate for finite normal inputs; the rest take the exact path.
+    private static double rsqrt(double ls) {
+        if (!FastMath.ENABLED || ls < Double.MIN_NORMAL || ls == Double.POSITIVE_INFINITY) return 1.0 / Math.sqrt(ls);
+        return FastMath.invSqrt(ls);
+    }
 }
@@ -1,5 +1,7 @@
 package physics.math.vector;
 
+import physics.math.metrics.Metrics;
+
 import java.io.Serializable;
 
 public record Vector2DR(double x, double y) implements Serializable {
@@ -11,6 +13,9 @@ public record Vector2DR(double x, double y) implements Serializable {
     public static final Vector2DR LEFT = new Vector2DR(-1.0, 0.0);
     public static final Vector2DR RIGHT = new Vector2DR(1.0, 0.0);
 
+    public Vector2DR {
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2DR);
+    }
 
     public Vector2DR added(Vector2DR v) {
         return new Vector2DR(x + v.x, y + v.y);
@@ -1,5 +1,7 @@
 package physics.math.vector;
 
+import physics.math.metrics.Metrics;
+
 import java.io.Serializable;
 
 public class Vector2F implements Serializable {
@@ -16,16 +18,19 @@ public class Vector2F implements Serializable {
     public Vector2F() {
         this.x = 0f;
         this.y = 0f;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2F);
     }
 
     public Vector2F(float x, float y) {
         this.x = x;
         this.y = y;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2F);
     }
 
     public Vector2F(Vector2F v) {
         this.x = v.x;
         this.y = v.y;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2F);
     }
 
     public Vector2F added(Vector2F v) {
@@ -133,6 +138,15 @@ public class Vector2F implements Serializable {
     }
 
     public Vector2F normalize() {
+        if (FastMath.ENABLED) {
+            float ls = lengthSquared();
+            if (ls >= Float.MIN_NORMAL) {
+                float inv = FastMath.invSqrt(ls);
+                x *= inv;
+                y *= inv;
+                return this;
+            }
+        }
         float len = length();
         if (len == 0f) return this;
         x /= len;
@@ -141,6 +155,13 @@ public class Vector2F implements Serializable {
     }
 
     public Vector2F normalized() {
+        if (FastMath.ENABLED) {
+            float ls = lengthSquared();
+            if (ls >= Float.MIN_NORMAL) {
+                float inv = FastMath.invSqrt(ls);
+                return new Vector2F(x * inv, y * inv);
+            }
+        }
         float len = length();
         if (len == 0f) return new Vector2F();
         return new Vector2F(x / len, y / len);
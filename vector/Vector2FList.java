@@ -0,0 +1,408 @@
+package physics.math.vector;
+
+import physics.math.metrics.Metrics;
+
+import java.nio.FloatBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Growable list of float vectors stored interleaved as x0, y0, x1, y1, ...
+// Sub-lists are views onto the same storage: they can read, write and run bulk
+// ops, but only the root list can change size.
+public class Vector2FList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 2;
+
+    private final Vector2FList root;
+    private final int offset;
+    private final int expectedModCount;
+
+    private float[] data;
+    private int size;
+    private int modCount;
+
+    public Vector2FList() { this(DEFAULT_CAPACITY); }
+
+    public Vector2FList(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity");
+        this.root = this;
+        this.offset = 0;
+        this.expectedModCount = 0;
+        this.data = new float[2 * capacity];
+    }
+
+    private Vector2FList(Vector2FList root, int offset, int size) {
+        this.root = root;
+        this.offset = offset;
+        this.size = size;
+        this.expectedModCount = root.modCount;
+    }
+
+    public static Vector2FList of(Vector2F[] arr) {
+        Vector2FList list = new Vector2FList(arr == null ? 0 : arr.length);
+        list.addAll(arr);
+        return list;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean isView() { return root != this; }
+    public int capacity() { checkRoot(); return data.length / 2; }
+
+    public float getX(int i) { checkIndex(i); return root.data[2 * (offset + i)]; }
+    public float getY(int i) { checkIndex(i); return root.data[2 * (offset + i) + 1]; }
+
+    public Vector2F get(int i, Vector2F out) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        return out.set(root.data[p], root.data[p + 1]);
+    }
+
+    public Vector2F get(int i) { return get(i, new Vector2F()); }
+
+    public Vector2DR getRecord(int i) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        return new Vector2DR(root.data[p], root.data[p + 1]);
+    }
+
+    public Vector2FList set(int i, float x, float y) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        root.data[p] = x;
+        root.data[p + 1] = y;
+        return this;
+    }
+
+    public Vector2FList set(int i, Vector2F v) { return set(i, v.x, v.y); }
+
+    public Vector2FList add(float x, float y) {
+        checkRoot();
+        if (2 * size == data.length) grow(size + 1);
+        data[2 * size] = x;
+        data[2 * size + 1] = y;
+        size++;
+        modCount++;
+        return this;
+    }
+
+    public Vector2FList add(Vector2F v) { return add(v.x, v.y); }
+
+    public Vector2FList addAll(Vector2F[] arr) {
+        checkRoot();
+        if (arr == null) return this;
+        ensureCapacity(size + arr.length);
+        for (Vector2F v : arr) {
+            if (v != null) add(v.x, v.y);
+        }
+        return this;
+    }
+
+    public Vector2FList addAll(Vector2FList other) {
+        checkRoot();
+        other.checkComodification();
+        int n = other.size;
+        ensureCapacity(size + n);
+        System.arraycopy(other.root.data, 2 * other.offset, data, 2 * size, 2 * n);
+        size += n;
+        modCount++;
+        return this;
+    }
+
+    public void insert(int i, float x, float y) {
+        checkRoot();
+        if (i < 0 || i > size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        if (2 * size == data.length) grow(size + 1);
+        System.arraycopy(data, 2 * i, data, 2 * i + 2, 2 * (size - i));
+        data[2 * i] = x;
+        data[2 * i + 1] = y;
+        size++;
+        modCount++;
+    }
+
+    // Shifts the tail down to keep order; O(size - i).
+    public void removeAt(int i) {
+        checkRoot();
+        checkIndex(i);
+        System.arraycopy(data, 2 * i + 2, data, 2 * i, 2 * (size - i - 1));
+        size--;
+        modCount++;
+    }
+
+    // Moves the last element into slot i; O(1) but does not keep order.
+    public void swapRemove(int i) {
+        checkRoot();
+        checkIndex(i);
+        int last = 2 * (size - 1);
+        data[2 * i] = data[last];
+        data[2 * i + 1] = data[last + 1];
+        size--;
+        modCount++;
+    }
+
+    public void removeRange(int from, int to) {
+        checkRoot();
+        checkRange(from, to);
+        System.arraycopy(data, 2 * to, data, 2 * from, 2 * (size - to));
+        size -= to - from;
+        modCount++;
+    }
+
+    public void clear() {
+        checkRoot();
+        size = 0;
+        modCount++;
+    }
+
+    public void ensureCapacity(int capacity) {
+        checkRoot();
+        if (2L * capacity > data.length) grow(capacity);
+    }
+
+    public void trimToSize() {
+        checkRoot();
+        if (data.length != 2 * size) {
+            float[] d = new float[2 * size];
+            System.arraycopy(data, 0, d, 0, 2 * size);
+            data = d;
+        }
+    }
+
+    public Vector2FList subList(int from, int to) {
+        checkRange(from, to);
+        return new Vector2FList(root, offset + from, to - from);
+    }
+
+    public Vector2F sum() {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SUM, size);
+        float[] d = root.data;
+        double sx = 0.0, sy = 0.0;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p += 2) {
+            sx += d[p];
+            sy += d[p + 1];
+        }
+        return new Vector2F((float) sx, (float) sy);
+    }
+
+    public VectorStats stats(int stats) {
+        return stats(null, stats);
+    }
+
+    public VectorStats stats(double[] masses, int stats) {
+        checkComodification();
+        if (masses != null && masses.length != size) throw new IllegalArgumentException("array lengths must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.STATS, size);
+        VectorStats s = new VectorStats(stats);
+        float[] d = root.data;
+        for (int k = 0, p = 2 * offset; k < size; k++, p += 2) s.accept(d[p], d[p + 1], masses == null ? 1.0 : masses[k]);
+        return s;
+    }
+
+    public Vector2FList scaleAll(float s) {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, size);
+        float[] d = root.data;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p++) d[p] *= s;
+        return this;
+    }
+
+    // src may be this list or an overlapping view of the same root.
+    public Vector2FList addScaled(Vector2FList src, float scale) {
+        checkComodification();
+        src.checkComodification();
+        if (src.size != size) throw new IllegalArgumentException("list sizes must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ADD_SCALED, size);
+        float[] d = root.data, s = src.root.data;
+        int p = 2 * offset, q = 2 * src.offset;
+        if (overlap(src) > 0) {
+            for (int i = 2 * size - 1; i >= 0; i--) d[p + i] += s[q + i] * scale;
+        } else {
+            for (int i = 0; i < 2 * size; i++) d[p + i] += s[q + i] * scale;
+        }
+        return this;
+    }
+
+    public Vector2FList normalizeAll() {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.NORMALIZE_ALL, size);
+        if (FastMath.ENABLED) {
+            FastMath.normalizeAll(root.data, offset, size);
+            return this;
+        }
+        float[] d = root.data;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p += 2) {
+            float len = (float) Math.sqrt(d[p] * d[p] + d[p + 1] * d[p + 1]);
+            if (len == 0f) continue;
+            d[p] /= len;
+            d[p + 1] /= len;
+        }
+        return this;
+    }
+
+    public Vector2FList rotateAll(double angle) {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ROTATE_ALL, size);
+        float s = (float) (FastMath.ENABLED ? FastMath.sin(angle) : Math.sin(angle));
+        float c = (float) (FastMath.ENABLED ? FastMath.cos(angle) : Math.cos(angle));
+        float[] d = root.data;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p += 2) {
+            float x = d[p], y = d[p + 1];
+            d[p] = x * c - y * s;
+            d[p + 1] = x * s + y * c;
+        }
+        return this;
+    }
+
+    // Writes a + (b - a) * t into this list. a and b may be this list or views of the
+    // same root that overlap it, as long as both sit on the same side of it.
+    public Vector2FList lerpAll(Vector2FList a, Vector2FList b, float t) {
+        checkComodification();
+        a.checkComodification();
+        b.checkComodification();
+        if (a.size != size || b.size != size) throw new IllegalArgumentException("list sizes must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.LERP_ALL, size);
+        int oa = overlap(a), ob = overlap(b);
+        if (oa * ob < 0) throw new IllegalArgumentException("sources overlap the destination from both sides");
+        float[] d = root.data, da = a.root.data, db = b.root.data;
+        int p = 2 * offset, pa = 2 * a.offset, pb = 2 * b.offset;
+        if (oa > 0 || ob > 0) {
+            for (int i = 2 * size - 1; i >= 0; i--) {
+                float av = da[pa + i];
+                d[p + i] = av + (db[pb + i] - av) * t;
+            }
+        } else {
+            for (int i = 0; i < 2 * size; i++) {
+                float av = da[pa + i];
+                d[p + i] = av + (db[pb + i] - av) * t;
+            }
+        }
+        return this;
+    }
+
+    // Zero-copy view of the elements as x, y pairs; writes go through to this list.
+    // Invalidated by any later growth of the root list.
+    public FloatBuffer asBuffer() {
+        checkComodification();
+        return FloatBuffer.wrap(root.data, 2 * offset, 2 * size).slice();
+    }
+
+    public Spliterator<Vector2DR> spliterator() {
+        checkComodification();
+        return new RecordSpliterator(offset, offset + size, root.modCount);
+    }
+
+    public Stream<Vector2DR> stream() { return StreamSupport.stream(spliterator(), false); }
+    public Stream<Vector2DR> parallelStream() { return StreamSupport.stream(spliterator(), true); }
+
+    public float[] toArray() {
+        checkComodification();
+        float[] out = new float[2 * size];
+        System.arraycopy(root.data, 2 * offset, out, 0, 2 * size);
+        return out;
+    }
+
+    public Vector2F[] toVectorArray() {
+        Vector2F[] out = new Vector2F[size];
+        for (int i = 0; i < size; i++) out[i] = get(i);
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Vector2FList[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('(').append(getX(i)).append(", ").append(getY(i)).append(')');
+        }
+        return sb.append(']').toString();
+    }
+
+    // 1 when other is a view of the same storage that starts before this one and
+    // overlaps it, -1 when it starts after and overlaps, 0 otherwise. Element-wise
+    // ops walk backward in the first case so every source value is read before
+    // it is overwritten.
+    private int overlap(Vector2FList other) {
+        if (other.root != root || other.offset == offset) return 0;
+        if (other.offset + other.size <= offset || offset + size <= other.offset) return 0;
+        return other.offset < offset ? 1 : -1;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Vector2FList capacity");
+        int old = data.length / 2;
+        int cap = (int) Math.min(MAX_CAPACITY, Math.max((long) minCapacity, old + (old >> 1) + 1L));
+        float[] d = new float[2 * cap];
+        System.arraycopy(data, 0, d, 0, 2 * size);
+        data = d;
+    }
+
+    private void checkRoot() {
+        if (root != this) throw new UnsupportedOperationException("sub-list views cannot change size");
+    }
+
+    private void checkComodification() {
+        if (root != this && root.modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    private void checkIndex(int i) {
+        checkComodification();
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+    }
+
+    private void checkRange(int from, int to) {
+        checkComodification();
+        if (from < 0 || to > size || from > to) throw new IndexOutOfBoundsException("range " + from + ".." + to + ", size " + size);
+    }
+
+    private final class RecordSpliterator implements Spliterator<Vector2DR> {
+        private int index;
+        private final int fence;
+        private final int expectedRootModCount;
+
+        RecordSpliterator(int index, int fence, int expectedRootModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedRootModCount = expectedRootModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Vector2DR> action) {
+            if (index >= fence) return false;
+            checkRootModCount();
+            float[] d = root.data;
+            action.accept(new Vector2DR(d[2 * index], d[2 * index + 1]));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Vector2DR> action) {
+            checkRootModCount();
+            float[] d = root.data;
+            for (int i = index; i < fence; i++) action.accept(new Vector2DR(d[2 * i], d[2 * i + 1]));
+            index = fence;
+            checkRootModCount();
+        }
+
+        @Override
+        public Spliterator<Vector2DR> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+            RecordSpliterator prefix = new RecordSpliterator(index, mid, expectedRootModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @Override public long estimateSize() { return fence - index; }
+        @Override public int characteristics() { return ORDERED | SIZED | SUBSIZED | NONNULL; }
+
+        private void checkRootModCount() {
+            if (root.modCount != expectedRootModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
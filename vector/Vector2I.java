@@ -1,5 +1,7 @@
 package physics.math.vector;
 
+import physics.math.metrics.Metrics;
+
 import java.io.Serializable;
 
 public class Vector2I implements Serializable {
@@ -16,16 +18,19 @@ public class Vector2I implements Serializable {
     public Vector2I() {
         this.x = 0;
         this.y = 0;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2I);
     }
 
     public Vector2I(int x, int y) {
         this.x = x;
         this.y = y;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2I);
     }
 
     public Vector2I(Vector2I v) {
         this.x = v.x;
         this.y = v.y;
+        if (Metrics.TRACK_ALLOCATIONS) Metrics.allocated(Metrics.Alloc.VECTOR_2I);
     }
 
     public Vector2I added(Vector2I v) {
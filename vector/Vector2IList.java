@@ -0,0 +1,351 @@
+package physics.math.vector;
+
+import physics.math.metrics.Metrics;
+
+import java.nio.IntBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Growable list of int vectors stored interleaved as x0, y0, x1, y1, ...
+// Sub-lists are views onto the same storage: they can read, write and run bulk
+// ops, but only the root list can change size.
+public class Vector2IList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 2;
+
+    private final Vector2IList root;
+    private final int offset;
+    private final int expectedModCount;
+
+    private int[] data;
+    private int size;
+    private int modCount;
+
+    public Vector2IList() { this(DEFAULT_CAPACITY); }
+
+    public Vector2IList(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity");
+        this.root = this;
+        this.offset = 0;
+        this.expectedModCount = 0;
+        this.data = new int[2 * capacity];
+    }
+
+    private Vector2IList(Vector2IList root, int offset, int size) {
+        this.root = root;
+        this.offset = offset;
+        this.size = size;
+        this.expectedModCount = root.modCount;
+    }
+
+    public static Vector2IList of(Vector2I[] arr) {
+        Vector2IList list = new Vector2IList(arr == null ? 0 : arr.length);
+        list.addAll(arr);
+        return list;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean isView() { return root != this; }
+    public int capacity() { checkRoot(); return data.length / 2; }
+
+    public int getX(int i) { checkIndex(i); return root.data[2 * (offset + i)]; }
+    public int getY(int i) { checkIndex(i); return root.data[2 * (offset + i) + 1]; }
+
+    public Vector2I get(int i, Vector2I out) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        return out.set(root.data[p], root.data[p + 1]);
+    }
+
+    public Vector2I get(int i) { return get(i, new Vector2I()); }
+
+    public Vector2DR getRecord(int i) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        return new Vector2DR(root.data[p], root.data[p + 1]);
+    }
+
+    public Vector2IList set(int i, int x, int y) {
+        checkIndex(i);
+        int p = 2 * (offset + i);
+        root.data[p] = x;
+        root.data[p + 1] = y;
+        return this;
+    }
+
+    public Vector2IList set(int i, Vector2I v) { return set(i, v.x, v.y); }
+
+    public Vector2IList add(int x, int y) {
+        checkRoot();
+        if (2 * size == data.length) grow(size + 1);
+        data[2 * size] = x;
+        data[2 * size + 1] = y;
+        size++;
+        modCount++;
+        return this;
+    }
+
+    public Vector2IList add(Vector2I v) { return add(v.x, v.y); }
+
+    public Vector2IList addAll(Vector2I[] arr) {
+        checkRoot();
+        if (arr == null) return this;
+        ensureCapacity(size + arr.length);
+        for (Vector2I v : arr) {
+            if (v != null) add(v.x, v.y);
+        }
+        return this;
+    }
+
+    public Vector2IList addAll(Vector2IList other) {
+        checkRoot();
+        other.checkComodification();
+        int n = other.size;
+        ensureCapacity(size + n);
+        System.arraycopy(other.root.data, 2 * other.offset, data, 2 * size, 2 * n);
+        size += n;
+        modCount++;
+        return this;
+    }
+
+    public void insert(int i, int x, int y) {
+        checkRoot();
+        if (i < 0 || i > size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        if (2 * size == data.length) grow(size + 1);
+        System.arraycopy(data, 2 * i, data, 2 * i + 2, 2 * (size - i));
+        data[2 * i] = x;
+        data[2 * i + 1] = y;
+        size++;
+        modCount++;
+    }
+
+    // Shifts the tail down to keep order; O(size - i).
+    public void removeAt(int i) {
+        checkRoot();
+        checkIndex(i);
+        System.arraycopy(data, 2 * i + 2, data, 2 * i, 2 * (size - i - 1));
+        size--;
+        modCount++;
+    }
+
+    // Moves the last element into slot i; O(1) but does not keep order.
+    public void swapRemove(int i) {
+        checkRoot();
+        checkIndex(i);
+        int last = 2 * (size - 1);
+        data[2 * i] = data[last];
+        data[2 * i + 1] = data[last + 1];
+        size--;
+        modCount++;
+    }
+
+    public void removeRange(int from, int to) {
+        checkRoot();
+        checkRange(from, to);
+        System.arraycopy(data, 2 * to, data, 2 * from, 2 * (size - to));
+        size -= to - from;
+        modCount++;
+    }
+
+    public void clear() {
+        checkRoot();
+        size = 0;
+        modCount++;
+    }
+
+    public void ensureCapacity(int capacity) {
+        checkRoot();
+        if (2L * capacity > data.length) grow(capacity);
+    }
+
+    public void trimToSize() {
+        checkRoot();
+        if (data.length != 2 * size) {
+            int[] d = new int[2 * size];
+            System.arraycopy(data, 0, d, 0, 2 * size);
+            data = d;
+        }
+    }
+
+    public Vector2IList subList(int from, int to) {
+        checkRange(from, to);
+        return new Vector2IList(root, offset + from, to - from);
+    }
+
+    public Vector2I sum() {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SUM, size);
+        int[] d = root.data;
+        int sx = 0, sy = 0;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p += 2) {
+            sx += d[p];
+            sy += d[p + 1];
+        }
+        return new Vector2I(sx, sy);
+    }
+
+    public VectorStats stats(int stats) {
+        return stats(null, stats);
+    }
+
+    public VectorStats stats(double[] masses, int stats) {
+        checkComodification();
+        if (masses != null && masses.length != size) throw new IllegalArgumentException("array lengths must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.STATS, size);
+        VectorStats s = new VectorStats(stats);
+        int[] d = root.data;
+        for (int k = 0, p = 2 * offset; k < size; k++, p += 2) s.accept(d[p], d[p + 1], masses == null ? 1.0 : masses[k]);
+        return s;
+    }
+
+    public Vector2IList scaleAll(int s) {
+        checkComodification();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, size);
+        int[] d = root.data;
+        for (int p = 2 * offset, end = 2 * (offset + size); p < end; p++) d[p] *= s;
+        return this;
+    }
+
+    // src may be this list or an overlapping view of the same root.
+    public Vector2IList addScaled(Vector2IList src, int scale) {
+        checkComodification();
+        src.checkComodification();
+        if (src.size != size) throw new IllegalArgumentException("list sizes must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ADD_SCALED, size);
+        int[] d = root.data, s = src.root.data;
+        int p = 2 * offset, q = 2 * src.offset;
+        if (overlap(src) > 0) {
+            for (int i = 2 * size - 1; i >= 0; i--) d[p + i] += s[q + i] * scale;
+        } else {
+            for (int i = 0; i < 2 * size; i++) d[p + i] += s[q + i] * scale;
+        }
+        return this;
+    }
+
+    // Zero-copy view of the elements as x, y pairs; writes go through to this list.
+    // Invalidated by any later growth of the root list.
+    public IntBuffer asBuffer() {
+        checkComodification();
+        return IntBuffer.wrap(root.data, 2 * offset, 2 * size).slice();
+    }
+
+    public Spliterator<Vector2DR> spliterator() {
+        checkComodification();
+        return new RecordSpliterator(offset, offset + size, root.modCount);
+    }
+
+    public Stream<Vector2DR> stream() { return StreamSupport.stream(spliterator(), false); }
+    public Stream<Vector2DR> parallelStream() { return StreamSupport.stream(spliterator(), true); }
+
+    public int[] toArray() {
+        checkComodification();
+        int[] out = new int[2 * size];
+        System.arraycopy(root.data, 2 * offset, out, 0, 2 * size);
+        return out;
+    }
+
+    public Vector2I[] toVectorArray() {
+        Vector2I[] out = new Vector2I[size];
+        for (int i = 0; i < size; i++) out[i] = get(i);
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Vector2IList[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('(').append(getX(i)).append(", ").append(getY(i)).append(')');
+        }
+        return sb.append(']').toString();
+    }
+
+    // 1 when other is a view of the same storage that starts before this one and
+    // overlaps it, -1 when it starts after and overlaps, 0 otherwise. Element-wise
+    // ops walk backward in the first case so every source value is read before
+    // it is overwritten.
+    private int overlap(Vector2IList other) {
+        if (other.root != root || other.offset == offset) return 0;
+        if (other.offset + other.size <= offset || offset + size <= other.offset) return 0;
+        return other.offset < offset ? 1 : -1;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Vector2IList capacity");
+        int old = data.length / 2;
+        int cap = (int) Math.min(MAX_CAPACITY, Math.max((long) minCapacity, old + (old >> 1) + 1L));
+        int[] d = new int[2 * cap];
+        System.arraycopy(data, 0, d, 0, 2 * size);
+        data = d;
+    }
+
+    private void checkRoot() {
+        if (root != this) throw new UnsupportedOperationException("sub-list views cannot change size");
+    }
+
+    private void checkComodification() {
+        if (root != this && root.modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    private void checkIndex(int i) {
+        checkComodification();
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+    }
+
+    private void checkRange(int from, int to) {
+        checkComodification();
+        if (from < 0 || to > size || from > to) throw new IndexOutOfBoundsException("range " + from + ".." + to + ", size " + size);
+    }
+
+    private final class RecordSpliterator implements Spliterator<Vector2DR> {
+        private int index;
+        private final int fence;
+        private final int expectedRootModCount;
+
+        RecordSpliterator(int index, int fence, int expectedRootModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedRootModCount = expectedRootModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Vector2DR> action) {
+            if (index >= fence) return false;
+            checkRootModCount();
+            int[] d = root.data;
+            action.accept(new Vector2DR(d[2 * index], d[2 * index + 1]));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Vector2DR> action) {
+            checkRootModCount();
+            int[] d = root.data;
+            for (int i = index; i < fence; i++) action.accept(new Vector2DR(d[2 * i], d[2 * i + 1]));
+            index = fence;
+            checkRootModCount();
+        }
+
+        @Override
+        public Spliterator<Vector2DR> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+            RecordSpliterator prefix = new RecordSpliterator(index, mid, expectedRootModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @Override public long estimateSize() { return fence - index; }
+        @Override public int characteristics() { return ORDERED | SIZED | SUBSIZED | NONNULL; }
+
+        private void checkRootModCount() {
+            if (root.modCount != expectedRootModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package physics.math.vector;
- 
+
+import physics.math.metrics.Metrics;
+
 public final class VectorMath {
 
     private VectorMath() {}
@@ -8,6 +10,10 @@ public final class VectorMath {
         return ax * bx + ay * by;
     }
 
+    public static double cross(double ax, double ay, double bx, double by) {
+        return ax * by - ay * bx;
+    }
+
     public static double length(double x, double y) {
         return Math.sqrt(x * x + y * y);
     }
@@ -38,6 +44,7 @@ public final class VectorMath {
 
     public static Vector2D sum(Vector2D[] arr) {
         if (arr == null || arr.length == 0) return Vector2D.ZERO.clone();
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SUM, arr.length);
         double sx = 0.0, sy = 0.0;
         for (Vector2D v : arr) {
             if (v != null) {
@@ -48,8 +55,19 @@ public final class VectorMath {
         return new Vector2D(sx, sy);
     }
 
+    public static VectorStats stats(Vector2D[] arr, int stats) {
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.STATS, arr == null ? 0 : arr.length);
+        return VectorStats.of(arr, stats);
+    }
+
+    public static VectorStats stats(Vector2D[] arr, double[] masses, int stats) {
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.STATS, arr == null ? 0 : arr.length);
+        return VectorStats.of(arr, masses, stats);
+    }
+
     public static Vector2F sum(Vector2F[] arr) {
         if (arr == null || arr.length == 0) return new Vector2F(0f, 0f);
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SUM, arr.length);
         float sx = 0f, sy = 0f;
         for (Vector2F v : arr) {
             if (v != null) {
@@ -62,6 +80,7 @@ public final class VectorMath {
 
     public static Vector2I sum(Vector2I[] arr) {
         if (arr == null || arr.length == 0) return new Vector2I(0, 0);
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SUM, arr.length);
         int sx = 0, sy = 0;
         for (Vector2I v : arr) {
             if (v != null) {
@@ -74,6 +93,7 @@ public final class VectorMath {
 
     public static void scaleAll(Vector2D[] arr, double s) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, arr.length);
         for (Vector2D v : arr) {
             if (v != null) v.mul(s);
         }
@@ -81,6 +101,7 @@ public final class VectorMath {
 
     public static void scaleAll(Vector2F[] arr, float s) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, arr.length);
         for (Vector2F v : arr) {
             if (v != null) v.scale(s);
         }
@@ -88,6 +109,7 @@ public final class VectorMath {
 
     public static void scaleAll(Vector2I[] arr, int s) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.SCALE_ALL, arr.length);
         for (Vector2I v : arr) {
             if (v != null) v.scale(s);
         }
@@ -95,6 +117,7 @@ public final class VectorMath {
 
     public static void normalizeAll(Vector2D[] arr) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.NORMALIZE_ALL, arr.length);
         for (Vector2D v : arr) {
             if (v != null) v.normalizeInPlace();
         }
@@ -102,14 +125,35 @@ public final class VectorMath {
 
     public static void normalizeAll(Vector2F[] arr) {
         if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.NORMALIZE_ALL, arr.length);
         for (Vector2F v : arr) {
             if (v != null) v.normalize();
         }
     }
 
+    public static void rotateAll(Vector2D[] arr, double angle) {
+        if (arr == null) return;
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ROTATE_ALL, arr.length);
+        double s = FastMath.ENABLED ? FastMath.sin(angle) : Math.sin(angle);
+        double c = FastMath.ENABLED ? FastMath.cos(angle) : Math.cos(angle);
+        for (Vector2D v : arr) {
+            if (v != null) v.set(v.getX() * c - v.getY() * s, v.getX() * s + v.getY() * c);
+        }
+    }
+
+    public static void anglesAll(Vector2D[] arr, double[] out) {
+        if (arr == null || out == null) throw new IllegalArgumentException("arrays must not be null");
+        if (arr.length != out.length) throw new IllegalArgumentException("array lengths must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.ANGLES_ALL, arr.length);
+        for (int i = 0; i < arr.length; i++) {
+            out[i] = (arr[i] == null) ? 0.0 : arr[i].angle();
+        }
+    }
+
     public static void lerpAll(Vector2D[] a, Vector2D[] b, Vector2D[] out, double t) {
         if (a == null || b == null || out == null) throw new IllegalArgumentException("arrays must not be null");
         if (a.length != b.length || a.length != out.length) throw new IllegalArgumentException("array lengths must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.LERP_ALL, out.length);
         for (int i = 0; i < out.length; i++) {
             Vector2D ai = a[i];
             Vector2D bi = b[i];
@@ -129,6 +173,7 @@ public final class VectorMath {
     public static void lerpAll(Vector2F[] a, Vector2F[] b, Vector2F[] out, float t) {
         if (a == null || b == null || out == null) throw new IllegalArgumentException("arrays must not be null");
         if (a.length != b.length || a.length != out.length) throw new IllegalArgumentException("array lengths must match");
+        if (Metrics.ENABLED) Metrics.count(Metrics.Op.LERP_ALL, out.length);
         for (int i = 0; i < out.length; i++) {
             Vector2F ai = a[i];
             Vector2F bi = b[i];
@@ -0,0 +1,255 @@
+package physics.math.vector;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// With no elements accepted every statistic reads as 0 (or the zero vector),
+// as Vector2D.average does for an empty array.
+//
+// Weights only feed CENTROID and KINETIC_ENERGY; SUM, MEAN, VARIANCE, BOUNDS and
+// MAX_LENGTH treat every point alike. Every overload indexes weights by position
+// within the points being reduced: weights[i] for arr[i], or weights[k] for the
+// point at xy[2 * (from + k)].
+public final class VectorStats {
+
+    public static final int SUM            = 1;
+    public static final int MEAN           = 1 << 1;
+    public static final int VARIANCE       = 1 << 2;
+    public static final int BOUNDS         = 1 << 3;
+    public static final int MAX_LENGTH     = 1 << 4;
+    public static final int CENTROID       = 1 << 5;
+    public static final int KINETIC_ENERGY = 1 << 6;
+    public static final int ALL = SUM | MEAN | VARIANCE | BOUNDS | MAX_LENGTH | CENTROID | KINETIC_ENERGY;
+
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int CHUNK = 1 << 13;
+
+    private final int stats;
+    private final boolean needSum;
+
+    private long count;
+
+    // Neumaier-compensated sums, stored as (value, compensation) pairs
+    private static final int SX = 0, SY = 2, SW = 4, SWX = 6, SWY = 8, KE = 10;
+    private final double[] acc = new double[12];
+
+    // Welford running moments per component
+    private double mx, my, m2x, m2y;
+
+    private double minX, minY, maxX, maxY;
+    private double maxLenSq;
+
+    public VectorStats(int stats) {
+        if ((stats & ~ALL) != 0 || stats == 0) throw new IllegalArgumentException("stats");
+        this.stats = stats;
+        this.needSum = (stats & (SUM | MEAN)) != 0;
+        reset();
+    }
+
+    public VectorStats reset() {
+        count = 0L;
+        Arrays.fill(acc, 0.0);
+        mx = my = m2x = m2y = 0.0;
+        minX = minY = Double.POSITIVE_INFINITY;
+        maxX = maxY = Double.NEGATIVE_INFINITY;
+        maxLenSq = 0.0;
+        return this;
+    }
+
+    public int stats() { return stats; }
+    public boolean has(int stat) { return (stats & stat) == stat; }
+    public long count() { return count; }
+
+    public void accept(double x, double y) { accept(x, y, 1.0); }
+
+    public void accept(double x, double y, double w) {
+        count++;
+        if (needSum) {
+            add(acc, SX, x);
+            add(acc, SY, y);
+        }
+        if ((stats & VARIANCE) != 0) {
+            double dx = x - mx;
+            double dy = y - my;
+            mx += dx / count;
+            my += dy / count;
+            m2x += dx * (x - mx);
+            m2y += dy * (y - my);
+        }
+        if ((stats & BOUNDS) != 0) {
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+        double ls = x * x + y * y;
+        if ((stats & MAX_LENGTH) != 0 && ls > maxLenSq) maxLenSq = ls;
+        if ((stats & CENTROID) != 0) {
+            add(acc, SW, w);
+            add(acc, SWX, w * x);
+            add(acc, SWY, w * y);
+        }
+        if ((stats & KINETIC_ENERGY) != 0) add(acc, KE, 0.5 * w * ls);
+    }
+
+    public VectorStats combine(VectorStats o) {
+        if (o.stats != stats) throw new IllegalArgumentException("stats mismatch");
+        if (o.count == 0L) return this;
+        if (count == 0L) return copyFrom(o);
+        long n = count + o.count;
+        for (int i = 0; i < acc.length; i += 2) {
+            add(acc, i, o.acc[i]);
+            add(acc, i, o.acc[i + 1]);
+        }
+        if ((stats & VARIANCE) != 0) {
+            // Chan et al. pairwise update of the second moments
+            double dx = o.mx - mx;
+            double dy = o.my - my;
+            double f = (double) count * o.count / n;
+            m2x += o.m2x + dx * dx * f;
+            m2y += o.m2y + dy * dy * f;
+            mx += dx * o.count / n;
+            my += dy * o.count / n;
+        }
+        if ((stats & BOUNDS) != 0) {
+            minX = Math.min(minX, o.minX);
+            minY = Math.min(minY, o.minY);
+            maxX = Math.max(maxX, o.maxX);
+            maxY = Math.max(maxY, o.maxY);
+        }
+        if ((stats & MAX_LENGTH) != 0) maxLenSq = Math.max(maxLenSq, o.maxLenSq);
+        count = n;
+        return this;
+    }
+
+    public VectorStats accumulate(Vector2D[] arr) {
+        if (arr == null) return this;
+        for (Vector2D v : arr) {
+            if (v != null) accept(v.getX(), v.getY(), 1.0);
+        }
+        return this;
+    }
+
+    public VectorStats accumulate(Vector2D[] arr, double[] weights) {
+        if (weights == null) return accumulate(arr);
+        if (arr == null) return this;
+        if (weights.length != arr.length) throw new IllegalArgumentException("array lengths must match");
+        for (int i = 0; i < arr.length; i++) {
+            Vector2D v = arr[i];
+            if (v != null) accept(v.getX(), v.getY(), weights[i]);
+        }
+        return this;
+    }
+
+    // weights[k] belongs to point from + k, so weights needs count entries.
+    public VectorStats accumulate(double[] xy, int from, int count, double[] weights) {
+        return accumulate(xy, from, count, weights, 0);
+    }
+
+    private VectorStats accumulate(double[] xy, int from, int count, double[] weights, int weightFrom) {
+        if (xy == null) throw new IllegalArgumentException("buffer must not be null");
+        if (from < 0 || count < 0 || ((long) from + count) * 2 > xy.length) throw new IllegalArgumentException("range");
+        if (weights != null && weights.length < weightFrom + count) throw new IllegalArgumentException("weights");
+        for (int k = 0; k < count; k++) {
+            int p = 2 * (from + k);
+            accept(xy[p], xy[p + 1], weights == null ? 1.0 : weights[weightFrom + k]);
+        }
+        return this;
+    }
+
+    public static VectorStats of(Vector2D[] arr, int stats) {
+        return of(arr, null, stats);
+    }
+
+    public static VectorStats of(Vector2D[] arr, double[] weights, int stats) {
+        VectorStats s = new VectorStats(stats);
+        if (arr == null) return s;
+        if (weights != null && weights.length != arr.length) throw new IllegalArgumentException("array lengths must match");
+        if (arr.length < PARALLEL_THRESHOLD) return s.accumulate(arr, weights);
+        int chunks = (arr.length + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    VectorStats part = new VectorStats(stats);
+                    int end = Math.min(arr.length, (c + 1) * CHUNK);
+                    for (int i = c * CHUNK; i < end; i++) {
+                        Vector2D v = arr[i];
+                        if (v != null) part.accept(v.getX(), v.getY(), weights == null ? 1.0 : weights[i]);
+                    }
+                    return part;
+                })
+                .reduce(VectorStats::combine)
+                .orElse(s);
+    }
+
+    // weights[k] belongs to point from + k, so weights needs count entries.
+    public static VectorStats of(double[] xy, int from, int count, double[] weights, int stats) {
+        VectorStats s = new VectorStats(stats);
+        if (count < PARALLEL_THRESHOLD) return s.accumulate(xy, from, count, weights);
+        if (xy == null) throw new IllegalArgumentException("buffer must not be null");
+        int chunks = (count + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    int k = c * CHUNK;
+                    return new VectorStats(stats).accumulate(xy, from + k, Math.min(CHUNK, count - k), weights, k);
+                })
+                .reduce(VectorStats::combine)
+                .orElse(s);
+    }
+
+    public double sumX() { require(SUM | MEAN, needSum); return acc[SX] + acc[SX + 1]; }
+    public double sumY() { require(SUM | MEAN, needSum); return acc[SY] + acc[SY + 1]; }
+    public Vector2D sum() { return new Vector2D(sumX(), sumY()); }
+
+    public double meanX() { return count == 0L ? 0.0 : sumX() / count; }
+    public double meanY() { return count == 0L ? 0.0 : sumY() / count; }
+    public Vector2D mean() { return new Vector2D(meanX(), meanY()); }
+
+    public double varianceX() { require(VARIANCE, has(VARIANCE)); return count == 0L ? 0.0 : m2x / count; }
+    public double varianceY() { require(VARIANCE, has(VARIANCE)); return count == 0L ? 0.0 : m2y / count; }
+    public Vector2D variance() { return new Vector2D(varianceX(), varianceY()); }
+
+    public double minX() { require(BOUNDS, has(BOUNDS)); return count == 0L ? 0.0 : minX; }
+    public double minY() { require(BOUNDS, has(BOUNDS)); return count == 0L ? 0.0 : minY; }
+    public double maxX() { require(BOUNDS, has(BOUNDS)); return count == 0L ? 0.0 : maxX; }
+    public double maxY() { require(BOUNDS, has(BOUNDS)); return count == 0L ? 0.0 : maxY; }
+    public Vector2D min() { return new Vector2D(minX(), minY()); }
+    public Vector2D max() { return new Vector2D(maxX(), maxY()); }
+
+    public double maxLengthSquared() { require(MAX_LENGTH, has(MAX_LENGTH)); return maxLenSq; }
+    public double maxLength() { return Math.sqrt(maxLengthSquared()); }
+
+    public double totalWeight() { require(CENTROID, has(CENTROID)); return acc[SW] + acc[SW + 1]; }
+
+    public Vector2D centroid() {
+        double w = totalWeight();
+        if (w == 0.0) return Vector2D.ZERO.clone();
+        return new Vector2D((acc[SWX] + acc[SWX + 1]) / w, (acc[SWY] + acc[SWY + 1]) / w);
+    }
+
+    public double kineticEnergy() { require(KINETIC_ENERGY, has(KINETIC_ENERGY)); return acc[KE] + acc[KE + 1]; }
+
+    @Override
+    public String toString() {
+        return "VectorStats(count=" + count + ", stats=0x" + Integer.toHexString(stats) + ")";
+    }
+
+    private VectorStats copyFrom(VectorStats o) {
+        count = o.count;
+        System.arraycopy(o.acc, 0, acc, 0, acc.length);
+        mx = o.mx; my = o.my; m2x = o.m2x; m2y = o.m2y;
+        minX = o.minX; minY = o.minY; maxX = o.maxX; maxY = o.maxY;
+        maxLenSq = o.maxLenSq;
+        return this;
+    }
+
+    private static void add(double[] a, int i, double v) {
+        double s = a[i];
+        double t = s + v;
+        a[i + 1] += Math.abs(s) >= Math.abs(v) ? (s - t) + v : (v - t) + s;
+        a[i] = t;
+    }
+
+    private static void require(int stat, boolean present) {
+        if (!present) throw new IllegalStateException("statistic not requested: 0x" + Integer.toHexString(stat));
+    }
+}